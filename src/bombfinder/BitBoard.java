@@ -0,0 +1,177 @@
+package bombfinder;
+
+import java.util.Arrays;
+
+// A board of single-bit cells packed into 64-bit words, one run of words per row.
+// Neighbour counts are computed for whole rows at once by adding the eight shifted
+// neighbour rows together with bit-sliced adders, instead of a 3x3 loop per cell.
+
+public class BitBoard {
+    // Set -Dbombfinder.kernel=scalar to always use the per-cell loop
+    private static final boolean SCALAR_KERNEL = "scalar".equalsIgnoreCase(System.getProperty("bombfinder.kernel"));
+
+    private final int rows;
+    private final int cols;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    public BitBoard(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.wordsPerRow = (cols + 63) >>> 6;
+        this.words = new long[rows * wordsPerRow];
+    }
+
+    public static BitBoard of(boolean[][] cells) {
+        int rows = cells.length;
+        int cols = rows > 0 ? cells[0].length : 0;
+        BitBoard board = new BitBoard(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (cells[i][j]) board.set(i, j);
+            }
+        }
+        return board;
+    }
+
+    public boolean get(int row, int col) {
+        return (words[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    public void set(int row, int col) {
+        words[row * wordsPerRow + (col >>> 6)] |= 1L << col;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    // Cells that are neither revealed nor flagged
+    public static BitBoard unknown(BitBoard revealed, BitBoard flagged) {
+        BitBoard result = new BitBoard(revealed.rows, revealed.cols);
+        for (int r = 0; r < revealed.rows; r++) {
+            for (int k = 0; k < revealed.wordsPerRow; k++) {
+                int w = r * revealed.wordsPerRow + k;
+                result.words[w] = ~(revealed.words[w] | flagged.words[w]) & revealed.validMask(k);
+            }
+        }
+        return result;
+    }
+
+    // Unknown cells that touch at least one revealed cell
+    public static BitBoard frontier(BitBoard revealed, BitBoard flagged) {
+        BitBoard unknown = unknown(revealed, flagged);
+        BitBoard result = new BitBoard(revealed.rows, revealed.cols);
+        long[] near = new long[revealed.wordsPerRow];
+        for (int r = 0; r < revealed.rows; r++) {
+            Arrays.fill(near, 0L);
+            for (int dr = -1; dr <= 1; dr++) {
+                int nr = r + dr;
+                if (nr < 0 || nr >= revealed.rows) continue;
+                for (int k = 0; k < revealed.wordsPerRow; k++) {
+                    near[k] |= revealed.word(nr, k) | revealed.shiftedFromLeft(nr, k) | revealed.shiftedFromRight(nr, k);
+                }
+            }
+            for (int k = 0; k < revealed.wordsPerRow; k++) {
+                int w = r * revealed.wordsPerRow + k;
+                result.words[w] = unknown.words[w] & near[k];
+            }
+        }
+        return result;
+    }
+
+    // Number of set cells among the eight neighbours of every cell. Boards narrower than
+    // one word gain nothing from packing, so they use the per-cell loop.
+    public static int[][] neighbourCounts(boolean[][] cells) {
+        if (SCALAR_KERNEL || cells.length == 0 || cells[0].length < 64) {
+            return perCellCounts(cells);
+        }
+        return of(cells).neighbourCounts();
+    }
+
+    // Number of set cells among the eight neighbours of every cell
+    public int[][] neighbourCounts() {
+        int[][] counts = new int[rows][cols];
+        // Four bit planes hold a 0..8 count per column
+        long[] planes = new long[4];
+        for (int r = 0; r < rows; r++) {
+            for (int k = 0; k < wordsPerRow; k++) {
+                Arrays.fill(planes, 0L);
+                for (int dr = -1; dr <= 1; dr++) {
+                    int nr = r + dr;
+                    if (nr < 0 || nr >= rows) continue;
+                    add(planes, shiftedFromLeft(nr, k));
+                    add(planes, shiftedFromRight(nr, k));
+                    if (dr != 0) add(planes, word(nr, k));
+                }
+                long b0 = planes[0], b1 = planes[1], b2 = planes[2], b3 = planes[3];
+
+                int base = k << 6;
+                int limit = Math.min(64, cols - base);
+                for (int bit = 0; bit < limit; bit++) {
+                    counts[r][base + bit] = (int) ((b0 >>> bit) & 1)
+                            | (int) ((b1 >>> bit) & 1) << 1
+                            | (int) ((b2 >>> bit) & 1) << 2
+                            | (int) ((b3 >>> bit) & 1) << 3;
+                }
+            }
+        }
+        return counts;
+    }
+
+    // The 3x3 bounds-checked loop over the unpacked board
+    static int[][] perCellCounts(boolean[][] cells) {
+        int rows = cells.length;
+        int cols = rows > 0 ? cells[0].length : 0;
+        int[][] counts = new int[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int count = 0;
+                for (int i = -1; i <= 1; i++) {
+                    for (int j = -1; j <= 1; j++) {
+                        int r = row + i, c = col + j;
+                        if ((i != 0 || j != 0) && r >= 0 && r < rows && c >= 0 && c < cols && cells[r][c]) {
+                            count++;
+                        }
+                    }
+                }
+                counts[row][col] = count;
+            }
+        }
+        return counts;
+    }
+
+    // Adds a one-bit value to every column's count at once
+    private static void add(long[] planes, long carry) {
+        for (int p = 0; p < planes.length && carry != 0; p++) {
+            long t = planes[p] & carry;
+            planes[p] ^= carry;
+            carry = t;
+        }
+    }
+
+    private long word(int row, int k) {
+        return words[row * wordsPerRow + k];
+    }
+
+    // Bit c holds the cell at column c - 1
+    private long shiftedFromLeft(int row, int k) {
+        long carryIn = k > 0 ? word(row, k - 1) >>> 63 : 0L;
+        return ((word(row, k) << 1) | carryIn) & validMask(k);
+    }
+
+    // Bit c holds the cell at column c + 1
+    private long shiftedFromRight(int row, int k) {
+        long carryIn = k + 1 < wordsPerRow ? word(row, k + 1) << 63 : 0L;
+        return (word(row, k) >>> 1) | carryIn;
+    }
+
+    private long validMask(int k) {
+        int bitsInWord = cols - (k << 6);
+        return bitsInWord >= 64 ? -1L : (1L << bitsInWord) - 1;
+    }
+}
@@ -0,0 +1,50 @@
+package bombfinder;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Compares packing a board and counting neighbours bit-sliced against the per-cell
+// boolean[][] loop Grid used to run, across board sizes.
+// Run with: java -m BombFinder/bombfinder.BitBoardBenchmark [size] [iterations]
+
+public class BitBoardBenchmark {
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1024;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        Random rand = new Random(42);
+        boolean[][] cells = new boolean[size][size];
+        for (boolean[] row : cells) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = rand.nextDouble() < 0.18;
+            }
+        }
+        if (!Arrays.deepEquals(BitBoard.perCellCounts(cells), BitBoard.of(cells).neighbourCounts())) {
+            throw new IllegalStateException("Bit-sliced and per-cell neighbour counts disagree");
+        }
+
+        // Warm up both paths before timing
+        for (int i = 0; i < iterations; i++) {
+            BitBoard.perCellCounts(cells);
+            BitBoard.of(cells).neighbourCounts();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            BitBoard.perCellCounts(cells);
+        }
+        long perCellNanos = System.nanoTime() - start;
+
+        // Packing the board into words is part of what every caller pays
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            BitBoard.of(cells).neighbourCounts();
+        }
+        long bitSlicedNanos = System.nanoTime() - start;
+
+        System.out.printf("Board %dx%d, %d iterations%n", size, size, iterations);
+        System.out.printf("- Per-cell loop:          %.3f ms/board%n", perCellNanos / 1e6 / iterations);
+        System.out.printf("- Packing and bit-sliced: %.3f ms/board%n", bitSlicedNanos / 1e6 / iterations);
+        System.out.printf("- Speedup:                %.1fx%n", (double) perCellNanos / bitSlicedNanos);
+    }
+}
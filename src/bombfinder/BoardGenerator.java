@@ -0,0 +1,256 @@
+package bombfinder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Generates boards that can be solved from the start cell by deduction alone.
+// Attempts run in parallel, a stuck layout is repaired by moving a single mine rather
+// than thrown away, and a background thread keeps a pool of ready boards.
+
+public class BoardGenerator {
+    private final int rows;
+    private final int cols;
+    private final int numBombs;
+    private final int startRow;
+    private final int startCol;
+    private final int parallelism;
+    private final ExecutorService attempts;
+    private final BlockingQueue<GeneratedBoard> pool;
+    private final Thread prefetcher;
+
+    public BoardGenerator(int rows, int cols, int numBombs, int poolSize) {
+        // The start cell and its neighbours are kept clear so the first reveal opens an area
+        if (numBombs > rows * cols - 9) {
+            throw new IllegalArgumentException("Too many bombs for a " + rows + "x" + cols + " board: " + numBombs);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.numBombs = numBombs;
+        this.startRow = rows / 2;
+        this.startCol = cols / 2;
+        this.parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.attempts = Executors.newFixedThreadPool(parallelism, daemonThreads("board-generator"));
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+
+        this.prefetcher = daemonThreads("board-prefetcher").newThread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    pool.put(generate());
+                }
+            } catch (InterruptedException | RejectedExecutionException e) {
+                // Shut down while filling the pool
+            }
+        });
+        prefetcher.start();
+    }
+
+    // Returns a pooled board, waiting only if the pool has run dry
+    public GeneratedBoard nextBoard() throws InterruptedException {
+        GeneratedBoard board = pool.poll();
+        return board != null ? board : pool.take();
+    }
+
+    // Returns a pooled board, or null if none is ready; safe to call on the event thread
+    public GeneratedBoard pollBoard() {
+        return pool.poll();
+    }
+
+    public void shutdown() {
+        prefetcher.interrupt();
+        attempts.shutdownNow();
+    }
+
+    // Runs several attempts at once and keeps whichever finishes first
+    public GeneratedBoard generate() throws InterruptedException {
+        List<Callable<GeneratedBoard>> tasks = new ArrayList<>();
+        for (int i = 0; i < parallelism; i++) {
+            tasks.add(() -> attempt(ThreadLocalRandom.current()));
+        }
+        try {
+            return attempts.invokeAny(tasks);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InterruptedException) {
+                throw new InterruptedException("Board generation was interrupted");
+            }
+            throw new IllegalStateException("Board generation failed", e.getCause());
+        }
+    }
+
+    GeneratedBoard attempt(Random rand) throws InterruptedException {
+        while (true) {
+            boolean[][] bombs = randomLayout(rand);
+
+            // Each repair moves one mine; give up on the layout if that keeps failing
+            for (int repairs = 0; repairs < rows * cols; repairs++) {
+                if (Thread.interrupted()) throw new InterruptedException();
+
+                boolean[][] revealed = new boolean[rows][cols];
+                boolean[][] mines = new boolean[rows][cols];
+                if (deduce(bombs, revealed, mines)) {
+                    return new GeneratedBoard(bombs, startRow, startCol);
+                }
+                if (!repair(bombs, revealed, mines, rand)) break;
+            }
+        }
+    }
+
+    private boolean[][] randomLayout(Random rand) {
+        boolean[][] bombs = new boolean[rows][cols];
+        int bombsPlaced = 0;
+        while (bombsPlaced < numBombs) {
+            int row = rand.nextInt(rows);
+            int col = rand.nextInt(cols);
+            if (!bombs[row][col] && !nearStart(row, col)) {
+                bombs[row][col] = true;
+                bombsPlaced++;
+            }
+        }
+        return bombs;
+    }
+
+    // Plays the board from the start cell with the same single-cell rule SolutionAlgorithm
+    // uses, so a board accepted here never sends the solver into a guess. Returns true if
+    // every safe cell was revealed; otherwise revealed and mines hold where it got stuck.
+    private boolean deduce(boolean[][] bombs, boolean[][] revealed, boolean[][] mines) {
+        int[][] counts = BitBoard.neighbourCounts(bombs);
+        int safeCells = rows * cols - numBombs;
+        int revealedCount = reveal(startRow, startCol, counts, revealed);
+
+        boolean progress = true;
+        while (progress && revealedCount < safeCells) {
+            progress = false;
+
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    if (!revealed[i][j] || counts[i][j] == 0) continue;
+
+                    int unknown = 0, knownMines = 0;
+                    for (int di = -1; di <= 1; di++) {
+                        for (int dj = -1; dj <= 1; dj++) {
+                            int r = i + di, c = j + dj;
+                            if (r < 0 || r >= rows || c < 0 || c >= cols) continue;
+                            if (mines[r][c]) knownMines++;
+                            else if (!revealed[r][c]) unknown++;
+                        }
+                    }
+                    if (unknown == 0) continue;
+
+                    int remaining = counts[i][j] - knownMines;
+                    if (remaining == 0 || remaining == unknown) {
+                        // Every unknown neighbour is safe, or every one is a mine
+                        for (int di = -1; di <= 1; di++) {
+                            for (int dj = -1; dj <= 1; dj++) {
+                                int r = i + di, c = j + dj;
+                                if (r < 0 || r >= rows || c < 0 || c >= cols || mines[r][c] || revealed[r][c]) continue;
+                                if (remaining == 0) revealedCount += reveal(r, c, counts, revealed);
+                                else mines[r][c] = true;
+                            }
+                        }
+                        progress = true;
+                    }
+                }
+            }
+        }
+        return revealedCount == safeCells;
+    }
+
+    // Moves one mine from the unresolved frontier into the unexplored interior
+    private boolean repair(boolean[][] bombs, boolean[][] revealed, boolean[][] mines, Random rand) {
+        BitBoard revealedBits = BitBoard.of(revealed);
+        BitBoard minesBits = BitBoard.of(mines);
+        BitBoard unknown = BitBoard.unknown(revealedBits, minesBits);
+        BitBoard frontier = BitBoard.frontier(revealedBits, minesBits);
+
+        List<int[]> frontierMines = new ArrayList<>();
+        List<int[]> interior = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (frontier.get(i, j)) {
+                    if (bombs[i][j]) frontierMines.add(new int[] {i, j});
+                } else if (unknown.get(i, j) && !bombs[i][j] && !nearStart(i, j)) {
+                    interior.add(new int[] {i, j});
+                }
+            }
+        }
+        if (frontierMines.isEmpty() || interior.isEmpty()) return false;
+
+        int[] from = frontierMines.get(rand.nextInt(frontierMines.size()));
+        int[] to = interior.get(rand.nextInt(interior.size()));
+        bombs[from[0]][from[1]] = false;
+        bombs[to[0]][to[1]] = true;
+        return true;
+    }
+
+    // Reveals a cell and flood fills from zeros; returns how many cells were newly revealed
+    private int reveal(int row, int col, int[][] counts, boolean[][] revealed) {
+        if (revealed[row][col]) return 0;
+        int count = 0;
+        int[] stack = new int[rows * cols];
+        int size = 0;
+        revealed[row][col] = true;
+        stack[size++] = row * cols + col;
+        while (size > 0) {
+            int cell = stack[--size];
+            count++;
+            int r = cell / cols, c = cell % cols;
+            if (counts[r][c] != 0) continue;
+            for (int di = -1; di <= 1; di++) {
+                for (int dj = -1; dj <= 1; dj++) {
+                    int nr = r + di, nc = c + dj;
+                    if (nr >= 0 && nr < rows && nc >= 0 && nc < cols && !revealed[nr][nc]) {
+                        revealed[nr][nc] = true;
+                        stack[size++] = nr * cols + nc;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private boolean nearStart(int row, int col) {
+        return Math.abs(row - startRow) <= 1 && Math.abs(col - startCol) <= 1;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // A mine layout together with the cell it is guaranteed to be solvable from
+    public static class GeneratedBoard {
+        private final boolean[][] bombs;
+        private final int startRow;
+        private final int startCol;
+
+        GeneratedBoard(boolean[][] bombs, int startRow, int startCol) {
+            this.bombs = bombs;
+            this.startRow = startRow;
+            this.startCol = startCol;
+        }
+
+        public boolean[][] getBombs() {
+            return bombs;
+        }
+
+        public int getStartRow() {
+            return startRow;
+        }
+
+        public int getStartCol() {
+            return startCol;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package bombfinder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// An unbounded board split into fixed-size chunks. Mines for a chunk are generated
+// lazily and deterministically from (seed, chunk coordinate) the first time the chunk
+// is touched, so memory scales with the explored area rather than the world size.
+
+public class ChunkedBoard implements AutoCloseable {
+    public static final int CHUNK_SIZE = 16;
+    private static final int DEFAULT_MAX_LOADED_CHUNKS = 256;
+    // At low densities empty cells connect without end, so one reveal opens at most this many
+    private static final int MAX_FLOOD_CELLS = 4096;
+
+    private final long seed;
+    private final double density;
+    private final int maxLoadedChunks;
+    private final Path spillDir;
+    // Created on the first spill so that no other board, or earlier run, shares its files
+    private Path boardSpillDir;
+    private final Map<Long, Chunk> loaded;
+    private final Map<Long, byte[]> spilledInMemory = new LinkedHashMap<>();
+    private final List<RevealListener> listeners = new CopyOnWriteArrayList<>();
+    private boolean gameOver;
+
+    public ChunkedBoard(long seed, double density) {
+        this(seed, density, DEFAULT_MAX_LOADED_CHUNKS, null);
+    }
+
+    // spillDir may be null, in which case evicted chunks that the player has touched
+    // are kept compressed in memory instead of being written to disk. Otherwise each board
+    // spills into its own new subdirectory of spillDir, removed again by close().
+    public ChunkedBoard(long seed, double density, int maxLoadedChunks, Path spillDir) {
+        if (density < 0.0 || density >= 1.0) {
+            throw new IllegalArgumentException("Mine density must be in [0, 1): " + density);
+        }
+        if (maxLoadedChunks < 1) {
+            throw new IllegalArgumentException("At least one chunk must stay loaded");
+        }
+        this.seed = seed;
+        this.density = density;
+        this.maxLoadedChunks = maxLoadedChunks;
+        this.spillDir = spillDir;
+        this.loaded = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                if (size() > ChunkedBoard.this.maxLoadedChunks) {
+                    evict(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public boolean isBomb(long row, long col) {
+        return chunkAt(row, col).bombs[index(row, col)];
+    }
+
+    public boolean isRevealed(long row, long col) {
+        return chunkAt(row, col).revealed[index(row, col)];
+    }
+
+    public boolean isFlagged(long row, long col) {
+        return chunkAt(row, col).flagged[index(row, col)];
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public void addRevealListener(RevealListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeRevealListener(RevealListener listener) {
+        listeners.remove(listener);
+    }
+
+    public int countAdjacentBombs(long row, long col) {
+        int count = 0;
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                if ((i != 0 || j != 0) && isBomb(row + i, col + j)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    // Reveals a cell and flood fills empty regions across chunk boundaries. The fill stops
+    // after MAX_FLOOD_CELLS cells; the unrevealed neighbours of the empty cells it stopped at
+    // are all safe, so revealing one of them carries on from there.
+    // Returns false if the cell was a bomb.
+    public boolean reveal(long row, long col) {
+        if (gameOver || isRevealed(row, col) || isFlagged(row, col)) return true;
+
+        if (isBomb(row, col)) {
+            markRevealed(row, col);
+            gameOver = true;
+            return false;
+        }
+
+        // Iterative so that large empty areas on an unbounded board cannot overflow the stack
+        ArrayDeque<long[]> pending = new ArrayDeque<>();
+        markRevealed(row, col);
+        pending.add(new long[] {row, col});
+        int budget = MAX_FLOOD_CELLS - 1;
+        while (!pending.isEmpty()) {
+            long[] cell = pending.poll();
+            int adjacentBombs = countAdjacentBombs(cell[0], cell[1]);
+            for (RevealListener listener : listeners) {
+                listener.cellRevealed(cell[0], cell[1], adjacentBombs);
+            }
+            if (adjacentBombs > 0) continue;
+
+            for (int i = -1; i <= 1; i++) {
+                for (int j = -1; j <= 1; j++) {
+                    long r = cell[0] + i, c = cell[1] + j;
+                    if (budget > 0 && !isRevealed(r, c) && !isFlagged(r, c) && !isBomb(r, c)) {
+                        budget--;
+                        markRevealed(r, c);
+                        pending.add(new long[] {r, c});
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    public void toggleFlag(long row, long col) {
+        if (gameOver || isRevealed(row, col)) return;
+        Chunk chunk = chunkAt(row, col);
+        int idx = index(row, col);
+        chunk.flagged[idx] = !chunk.flagged[idx];
+        chunk.dirty = true;
+    }
+
+    public int getLoadedChunkCount() {
+        return loaded.size();
+    }
+
+    private void markRevealed(long row, long col) {
+        Chunk chunk = chunkAt(row, col);
+        chunk.revealed[index(row, col)] = true;
+        chunk.dirty = true;
+    }
+
+    private Chunk chunkAt(long row, long col) {
+        long cx = Math.floorDiv(row, CHUNK_SIZE);
+        long cy = Math.floorDiv(col, CHUNK_SIZE);
+        long key = chunkKey(cx, cy);
+        Chunk chunk = loaded.get(key);
+        if (chunk == null) {
+            chunk = restore(key, cx, cy);
+            loaded.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    private static int index(long row, long col) {
+        return Math.floorMod(row, CHUNK_SIZE) * CHUNK_SIZE + Math.floorMod(col, CHUNK_SIZE);
+    }
+
+    // Chunk coordinates are packed into one key; 32 bits per axis is far beyond any
+    // area a player can explore
+    private static long chunkKey(long cx, long cy) {
+        return (cx << 32) ^ (cy & 0xFFFFFFFFL);
+    }
+
+    private Chunk generate(long cx, long cy) {
+        Chunk chunk = new Chunk();
+        Random rand = new Random(seed ^ (cx * 0x9E3779B97F4A7C15L) ^ (cy * 0xC2B2AE3D27D4EB4FL));
+        for (int i = 0; i < chunk.bombs.length; i++) {
+            chunk.bombs[i] = rand.nextDouble() < density;
+        }
+        return chunk;
+    }
+
+    private Chunk restore(long key, long cx, long cy) {
+        // Mines are always regenerated from the seed; only player state is stored
+        Chunk chunk = generate(cx, cy);
+        byte[] stored = null;
+        try {
+            if (spillDir != null) {
+                Path file = spillFile(key);
+                if (file != null && Files.exists(file)) {
+                    stored = Files.readAllBytes(file);
+                    Files.delete(file);
+                }
+            } else {
+                stored = spilledInMemory.remove(key);
+            }
+            if (stored != null) {
+                readState(chunk, stored);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not restore chunk " + cx + "," + cy, e);
+        }
+        return chunk;
+    }
+
+    private void evict(long key, Chunk chunk) {
+        // Untouched chunks can simply be regenerated later
+        if (!chunk.dirty) return;
+        try {
+            byte[] state = writeState(chunk);
+            if (spillDir != null) {
+                if (boardSpillDir == null) {
+                    Files.createDirectories(spillDir);
+                    boardSpillDir = Files.createTempDirectory(spillDir, "board_");
+                }
+                Files.write(spillFile(key), state);
+            } else {
+                spilledInMemory.put(key, state);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not spill chunk " + key, e);
+        }
+    }
+
+    private Path spillFile(long key) {
+        return boardSpillDir != null ? boardSpillDir.resolve("chunk_" + Long.toHexString(key) + ".gz") : null;
+    }
+
+    // Deletes this board's spilled chunks; call once the game is over
+    @Override
+    public void close() {
+        spilledInMemory.clear();
+        if (boardSpillDir == null) return;
+        try (Stream<Path> files = Files.list(boardSpillDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+            Files.delete(boardSpillDir);
+            boardSpillDir = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete spilled chunks in " + boardSpillDir, e);
+        }
+    }
+
+    private static byte[] writeState(Chunk chunk) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.write(pack(chunk.revealed));
+            out.write(pack(chunk.flagged));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void readState(Chunk chunk, byte[] state) throws IOException {
+        int packedLength = CHUNK_SIZE * CHUNK_SIZE / 8;
+        byte[] revealedBits = new byte[packedLength];
+        byte[] flaggedBits = new byte[packedLength];
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(state)))) {
+            in.readFully(revealedBits);
+            in.readFully(flaggedBits);
+        }
+        unpack(revealedBits, chunk.revealed);
+        unpack(flaggedBits, chunk.flagged);
+        chunk.dirty = true;
+    }
+
+    private static byte[] pack(boolean[] cells) {
+        byte[] bits = new byte[cells.length / 8];
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i]) bits[i >> 3] |= (byte) (1 << (i & 7));
+        }
+        return bits;
+    }
+
+    private static void unpack(byte[] bits, boolean[] cells) {
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = (bits[i >> 3] & (1 << (i & 7))) != 0;
+        }
+    }
+
+    // Notified for every safe cell a reveal opens, including each cell of a flood fill
+    public interface RevealListener {
+        void cellRevealed(long row, long col, int adjacentBombs);
+    }
+
+    private static class Chunk {
+        final boolean[] bombs = new boolean[CHUNK_SIZE * CHUNK_SIZE];
+        final boolean[] revealed = new boolean[CHUNK_SIZE * CHUNK_SIZE];
+        final boolean[] flagged = new boolean[CHUNK_SIZE * CHUNK_SIZE];
+        boolean dirty;
+    }
+}
@@ -0,0 +1,208 @@
+package bombfinder;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Random;
+
+// Window for the unbounded board: a fixed-size view onto a ChunkedBoard that can be
+// moved in any direction. Only the cells in view have buttons.
+
+public class ChunkedGrid extends JFrame {
+
+    private static final int VIEW_ROWS = 15;
+    private static final int VIEW_COLS = 15;
+    private static final int PAN_STEP = 5;
+    private static final double DENSITY = 0.18;
+
+    private JPanel grid;
+    private JPanel controlPanel;
+    private IconManager iconManager;
+    private JButton[][] buttons;
+    private ChunkedBoard board;
+    private ChunkedSolver solver;
+    private long originRow;
+    private long originCol;
+    private int revealedCount;
+    private JLabel statusLabel;
+    private JButton restartButton;
+
+    public ChunkedGrid() {
+        iconManager = new IconManager();
+
+        setLayout(new BorderLayout());
+
+        // Restart and panning controls at the top
+        controlPanel = new JPanel();
+        restartButton = new JButton("New Game");
+        restartButton.addActionListener(e -> restartGame());
+        controlPanel.add(restartButton);
+        controlPanel.add(panButton("Left", 0, -PAN_STEP));
+        controlPanel.add(panButton("Up", -PAN_STEP, 0));
+        controlPanel.add(panButton("Down", PAN_STEP, 0));
+        controlPanel.add(panButton("Right", 0, PAN_STEP));
+        add(controlPanel, BorderLayout.NORTH);
+
+        statusLabel = new JLabel();
+        statusLabel.setHorizontalAlignment(JLabel.CENTER);
+        statusLabel.setBorder(BorderFactory.createLoweredBevelBorder());
+        add(statusLabel, BorderLayout.SOUTH);
+
+        grid = StartupTiming.boardPanel(new GridLayout(VIEW_ROWS, VIEW_COLS));
+        add(grid, BorderLayout.CENTER);
+
+        buttons = new JButton[VIEW_ROWS][VIEW_COLS];
+        setGrid();
+        newBoard();
+        StartupTiming.report("Board built");
+
+        // Hidden cells show the fallback text until the unseen icon has loaded
+        iconManager.whenUnseenLoaded(icon -> render());
+        iconManager.whenFrameIconLoaded(frameIcon -> {
+            if (frameIcon != null) {
+                setIconImage(frameIcon);
+            }
+        });
+
+        this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        this.setTitle("Bomb Finder - Unbounded");
+        this.setSize(600, 650);
+        this.setLocationRelativeTo(null);
+        this.setVisible(true);
+    }
+
+    private JButton panButton(String text, int rowStep, int colStep) {
+        JButton button = new JButton(text);
+        button.addActionListener(e -> {
+            originRow += rowStep;
+            originCol += colStep;
+            render();
+        });
+        return button;
+    }
+
+    // Buttons map to view positions; the board cell behind each one moves as the view pans
+    private void setGrid() {
+        for (int i = 0; i < VIEW_ROWS; i++) {
+            for (int j = 0; j < VIEW_COLS; j++) {
+                buttons[i][j] = new JButton();
+                buttons[i][j].setFocusPainted(false);
+                buttons[i][j].setMargin(new Insets(0, 0, 0, 0));
+
+                int row = i, col = j;
+                buttons[i][j].addActionListener(e -> revealCellProgrammatically(originRow + row, originCol + col));
+                buttons[i][j].addMouseListener(new MouseAdapter() {
+                    @Override
+                    public void mouseClicked(MouseEvent e) {
+                        if (SwingUtilities.isRightMouseButton(e)) {
+                            flagCellProgrammatically(originRow + row, originCol + col);
+                        }
+                    }
+                });
+
+                grid.add(buttons[i][j]);
+            }
+        }
+    }
+
+    private void newBoard() {
+        board = new ChunkedBoard(new Random().nextLong(), DENSITY);
+        board.addRevealListener((row, col, adjacentBombs) -> revealedCount++);
+        solver = new ChunkedSolver(this, board);
+        originRow = 0;
+        originCol = 0;
+        revealedCount = 0;
+        statusLabel.setText("Explore as far as you like! Left click to reveal, right click to flag.");
+        render();
+    }
+
+    public void restartGame() {
+        solver.stop();
+        board.close();
+        newBoard();
+
+        restartButton.setText("New Game");
+        restartButton.setBackground(null);
+        restartButton.setForeground(null);
+        restartButton.setFont(new Font(restartButton.getFont().getName(), Font.PLAIN, 12));
+    }
+
+    public void revealCellProgrammatically(long row, long col) {
+        if (board.isGameOver()) return;
+
+        if (!board.reveal(row, col)) {
+            render();
+            statusLabel.setText("Game Over! You hit a bomb after revealing " + revealedCount + " cells!");
+            restartButton.setText("Play Again");
+            restartButton.setBackground(new Color(144, 238, 144)); // Light green
+            restartButton.setForeground(Color.BLACK);
+            restartButton.setFont(new Font(restartButton.getFont().getName(), Font.BOLD, 14));
+            JOptionPane.showMessageDialog(this, "Game Over! You hit a bomb!\nClick 'Play Again' to start a new game.");
+            return;
+        }
+
+        statusLabel.setText("Cells revealed: " + revealedCount);
+        render();
+    }
+
+    public void flagCellProgrammatically(long row, long col) {
+        board.toggleFlag(row, col);
+        render();
+    }
+
+    public ChunkedSolver getSolver() {
+        return solver;
+    }
+
+    public JPanel getControlPanel() {
+        return controlPanel;
+    }
+
+    private void render() {
+        for (int i = 0; i < VIEW_ROWS; i++) {
+            for (int j = 0; j < VIEW_COLS; j++) {
+                renderCell(buttons[i][j], originRow + i, originCol + j);
+            }
+        }
+    }
+
+    private void renderCell(JButton button, long row, long col) {
+        button.setText(null);
+        button.setIcon(null);
+        button.setBackground(null);
+
+        boolean revealed = board.isRevealed(row, col);
+        button.setEnabled(!revealed && !board.isGameOver());
+
+        if (board.isBomb(row, col) && (revealed || board.isGameOver())) {
+            setIconOrText(button, iconManager.getBomb(), "💣", Color.RED);
+        } else if (board.isFlagged(row, col)) {
+            if (board.isGameOver()) {
+                setIconOrText(button, iconManager.getIncFlag(), "❌", Color.ORANGE);
+            } else {
+                setIconOrText(button, iconManager.getFlag(), "🚩", Color.YELLOW);
+            }
+        } else if (!revealed) {
+            setIconOrText(button, iconManager.getUnseenIfLoaded(), "?", Color.LIGHT_GRAY);
+        } else {
+            int adjacentBombs = board.countAdjacentBombs(row, col);
+            ImageIcon numberIcon = iconManager.getMineNumber(adjacentBombs);
+            if (numberIcon != null) {
+                button.setIcon(numberIcon);
+            } else {
+                button.setText(adjacentBombs > 0 ? String.valueOf(adjacentBombs) : null);
+                button.setBackground(Color.WHITE);
+            }
+        }
+    }
+
+    private static void setIconOrText(JButton button, ImageIcon icon, String text, Color background) {
+        if (icon != null) {
+            button.setIcon(icon);
+        } else {
+            button.setText(text);
+            button.setBackground(background);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package bombfinder;
+
+import javax.swing.*;
+import java.lang.reflect.InvocationTargetException;
+import java.util.*;
+
+// Plays deduced moves on an unbounded board. The frontier is built from reveal events and
+// addressed by global coordinates, so deductions cross chunk boundaries like any other cell.
+// An unbounded board can never be cleared, so the solver does not guess; it stops when
+// nothing more can be deduced or after MAX_MOVES moves.
+
+public class ChunkedSolver implements ChunkedBoard.RevealListener {
+    private static final int MAX_MOVES = 500;
+
+    private final ChunkedGrid grid;
+    private final ChunkedBoard board;
+    private volatile boolean stopped;
+
+    // Revealed cells that may still border unknown cells; only touched on the event thread
+    private final Map<Cell, Integer> frontier = new LinkedHashMap<>();
+
+    public ChunkedSolver(ChunkedGrid grid, ChunkedBoard board) {
+        this.grid = grid;
+        this.board = board;
+        board.addRevealListener(this);
+    }
+
+    @Override
+    public void cellRevealed(long row, long col, int adjacentBombs) {
+        frontier.put(new Cell(row, col), adjacentBombs);
+    }
+
+    // Makes one deduced move. Must run on the event thread, as the board is not thread-safe.
+    public boolean makeMove() {
+        Cell safeMove = null;
+        Cell bombMove = null;
+
+        Iterator<Map.Entry<Cell, Integer>> it = frontier.entrySet().iterator();
+        while (it.hasNext() && safeMove == null) {
+            Map.Entry<Cell, Integer> entry = it.next();
+            long i = entry.getKey().row;
+            long j = entry.getKey().col;
+            int adjacentBombs = entry.getValue();
+
+            List<Cell> unknownCells = new ArrayList<>();
+            int flaggedCells = 0;
+            for (int di = -1; di <= 1; di++) {
+                for (int dj = -1; dj <= 1; dj++) {
+                    if (di == 0 && dj == 0) continue;
+
+                    if (board.isFlagged(i + di, j + dj)) {
+                        flaggedCells++;
+                    } else if (!board.isRevealed(i + di, j + dj)) {
+                        unknownCells.add(new Cell(i + di, j + dj));
+                    }
+                }
+            }
+
+            if (unknownCells.isEmpty()) {
+                // Kept while it has flagged neighbours, since removing a flag reopens it
+                if (flaggedCells == 0) it.remove();
+                continue;
+            }
+
+            if (flaggedCells == adjacentBombs) {
+                safeMove = unknownCells.get(0);
+            } else if (bombMove == null && unknownCells.size() + flaggedCells == adjacentBombs) {
+                bombMove = unknownCells.get(0);
+            }
+        }
+
+        if (safeMove != null) {
+            grid.revealCellProgrammatically(safeMove.row, safeMove.col);
+            return true;
+        }
+
+        if (bombMove != null) {
+            grid.flagCellProgrammatically(bombMove.row, bombMove.col);
+            return true;
+        }
+
+        return false;
+    }
+
+    // Returns true if the move budget ran out while deductions were still possible
+    public boolean solveGame() {
+        boolean[] moved = new boolean[1];
+        for (int moves = 0; moves < MAX_MOVES; moves++) {
+            if (stopped || board.isGameOver()) return false;
+
+            try {
+                SwingUtilities.invokeAndWait(() -> moved[0] = !stopped && makeMove());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Solver move failed", e.getCause());
+            }
+            if (!moved[0]) return false;
+
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return true;
+    }
+
+    // Called when the board this solver plays is thrown away
+    public void stop() {
+        stopped = true;
+        board.removeRevealListener(this);
+    }
+
+    private static class Cell {
+        final long row;
+        final long col;
+
+        Cell(long row, long col) {
+            this.row = row;
+            this.col = col;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Cell cell = (Cell) o;
+            return row == cell.row && col == cell.col;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(row, col);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package bombfinder;
+
+// Receives game events from a Grid so that the UI and the solver can react to moves
+// instead of scanning the board arrays. All methods have empty defaults.
+
+public interface GameListener {
+
+    default void cellRevealed(int row, int col, int adjacentBombs) {
+    }
+
+    default void cellFlagged(int row, int col, boolean flagged) {
+    }
+
+    default void gameWon() {
+    }
+
+    default void gameLost(int row, int col) {
+    }
+
+    default void gameRestarted() {
+    }
+}
@@ -4,7 +4,9 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Grid extends JFrame {
 
@@ -13,17 +15,27 @@ public class Grid extends JFrame {
     private IconManager iconManager;
     private JButton[][] buttons;
     private boolean[][] bombs;
+    private int[][] adjacentCounts;
     private boolean[][] revealed;
     private boolean[][] flagged;
     private boolean gameOver;
+    private int revealedCount;
+    private int flagCount;
+    private final List<GameListener> listeners = new CopyOnWriteArrayList<>();
     private static int ROWS = 15;
     private static int COLS = 15;
     private static int NUM_BOMBS = 40;
+    // Set -Dbombfinder.noGuess=true to play boards that never require a guess
+    private static final boolean NO_GUESS = Boolean.getBoolean("bombfinder.noGuess");
+    // Started with the class so its pool of boards is already filling before the first game
+    private static final BoardGenerator boardGenerator = NO_GUESS ? new BoardGenerator(ROWS, COLS, NUM_BOMBS, 3) : null;
+    // Set -Dbombfinder.fastStart=true to show the window before the cells are built
+    private static final boolean FAST_START = Boolean.getBoolean("bombfinder.fastStart");
     private JLabel statusLabel;
     private JButton restartButton;
 
     public Grid() {
-        // Initialize icon manager first to make sure icons are loaded
+        // Initialize icon manager first so the icons load while the window is built
         iconManager = new IconManager();
         
         // Create a more complete user interface
@@ -43,8 +55,7 @@ public class Grid extends JFrame {
         add(statusLabel, BorderLayout.SOUTH);
         
         // Game grid in the center
-        grid = new JPanel();
-        grid.setLayout(new GridLayout(ROWS, COLS));
+        grid = StartupTiming.boardPanel(new GridLayout(ROWS, COLS));
         add(grid, BorderLayout.CENTER);
         
         // Initialize game arrays
@@ -54,27 +65,50 @@ public class Grid extends JFrame {
         flagged = new boolean[ROWS][COLS];
         gameOver = false;
 
-        // Set the window icon
-        Image frameIcon = iconManager.getFrameIcon();
-        if (frameIcon != null) {
-            setIconImage(frameIcon);
+        if (FAST_START) {
+            // Show the empty window now and fill it in on the event thread. New Game stays
+            // disabled until then, or a restart could build a second set of cells.
+            restartButton.setEnabled(false);
+            showWindow();
+            SwingUtilities.invokeLater(() -> {
+                initializeGame();
+                grid.revalidate();
+                grid.repaint();
+                restartButton.setEnabled(true);
+            });
         } else {
-            System.err.println("Frame icon is null, window will use default icon");
+            initializeGame();
+            showWindow();
         }
+        
+        // Set -Dbombfinder.debugIcons=true to report on icon status when debugging
+        if (Boolean.getBoolean("bombfinder.debugIcons")) {
+            reportIconStatus();
+        }
+    }
+    
+    private void initializeGame() {
+        // Set the window icon once it has loaded, rather than waiting for it here
+        iconManager.whenFrameIconLoaded(frameIcon -> {
+            if (frameIcon != null) {
+                setIconImage(frameIcon);
+            } else {
+                System.err.println("Frame icon is null, window will use default icon");
+            }
+        });
 
         // Initialize game
         setGrid();
         placeBombs();
-
-        // Window setup
+        StartupTiming.report("Board built");
+    }
+    
+    private void showWindow() {
         this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         this.setTitle("Bomb Finder");
         this.setSize(600, 650); // Added some extra height for status bar
         this.setLocationRelativeTo(null);
         this.setVisible(true);
-        
-        // Report on icon status to help with debugging
-        reportIconStatus();
     }
     
     private void reportIconStatus() {
@@ -89,13 +123,15 @@ public class Grid extends JFrame {
         }
     }
 
+    // Builds the cells without waiting for the unseen icon; cells start with the fallback
+    // text if it is still loading and are given the icon when it arrives
     public void setGrid() {
+        ImageIcon emptyIcon = iconManager.getUnseenIfLoaded();
         for (int i = 0; i < ROWS; i++) {
             for (int j = 0; j < COLS; j++) {
                 buttons[i][j] = new JButton();
                 
                 // Set initial icon or fallback text
-                ImageIcon emptyIcon = iconManager.getUnseen();
                 if (emptyIcon != null) {
                     buttons[i][j].setIcon(emptyIcon);
                 } else {
@@ -124,15 +160,39 @@ public class Grid extends JFrame {
                 grid.add(buttons[i][j]);
             }
         }
+        
+        if (emptyIcon == null) {
+            iconManager.whenUnseenLoaded(this::showUnseenIcons);
+        }
+    }
+    
+    // Swaps the fallback text for the unseen icon on cells that are still hidden
+    private void showUnseenIcons(ImageIcon unseenIcon) {
+        if (unseenIcon == null) return;
+        for (int i = 0; i < ROWS; i++) {
+            for (int j = 0; j < COLS; j++) {
+                JButton button = buttons[i][j];
+                if (button != null && !revealed[i][j] && !flagged[i][j] && "?".equals(button.getText())) {
+                    button.setText(null);
+                    button.setBackground(null);
+                    button.setIcon(unseenIcon);
+                }
+            }
+        }
     }
 
     public void placeBombs() {
-        Random rand = new Random();
-        int bombsPlaced = 0;
-        
         // Status update
         statusLabel.setText("Bombs to find: " + NUM_BOMBS);
         
+        if (NO_GUESS) {
+            if (placeGeneratedBombs()) return;
+            statusLabel.setText("No-guess board not ready yet, dealt a random one. Bombs to find: " + NUM_BOMBS);
+        }
+        
+        Random rand = new Random();
+        int bombsPlaced = 0;
+        
         while (bombsPlaced < NUM_BOMBS) { 
             int row = rand.nextInt(ROWS);
             int col = rand.nextInt(COLS);
@@ -142,6 +202,21 @@ public class Grid extends JFrame {
                 bombsPlaced++;
             }
         }
+        
+        // Work out every cell's hint once rather than on each reveal
+        adjacentCounts = BitBoard.neighbourCounts(bombs);
+    }
+    
+    // Takes a no-guess board from the prefetched pool and opens its start cell. Never waits
+    // for generation, so a New Game click cannot freeze the window on an empty pool.
+    private boolean placeGeneratedBombs() {
+        BoardGenerator.GeneratedBoard board = boardGenerator.pollBoard();
+        if (board == null) return false;
+        
+        bombs = board.getBombs();
+        adjacentCounts = BitBoard.neighbourCounts(bombs);
+        revealCell(board.getStartRow(), board.getStartCol());
+        return true;
     }
 
     private void revealCell(int row, int col) {
@@ -150,6 +225,7 @@ public class Grid extends JFrame {
         
         revealed[row][col] = true;
         buttons[row][col].setEnabled(false);
+        buttons[row][col].setText(null); // Drop the fallback text if the unseen icon had not loaded
 
         if (bombs[row][col]) {
             // Player hit a bomb
@@ -162,13 +238,20 @@ public class Grid extends JFrame {
             }
             
             gameOver = true;
+            for (GameListener listener : listeners) {
+                listener.gameLost(row, col);
+            }
             statusLabel.setText("Game Over! You hit a bomb!");
             JOptionPane.showMessageDialog(this, "Game Over! You hit a bomb!\nClick 'Play Again' to start a new game.");
             revealAllBombs();
             
         } else {
             // Cell is safe, count adjacent bombs
+            revealedCount++;
             int adjacentBombs = countAdjacentBombs(row, col);
+            for (GameListener listener : listeners) {
+                listener.cellRevealed(row, col, adjacentBombs);
+            }
             
             if (adjacentBombs > 0) {
                 // Cell has numbered hint
@@ -205,9 +288,12 @@ public class Grid extends JFrame {
                 revealAdjacentCells(row, col);
             }
             
-            // Check if the player has won
-            if (checkWin()) {
+            // Check if the player has won; a recursive reveal may already have ended the game
+            if (!gameOver && checkWin()) {
                 gameOver = true;
+                for (GameListener listener : listeners) {
+                    listener.gameWon();
+                }
                 statusLabel.setText("You Win! All non-bomb cells revealed!");
                 JOptionPane.showMessageDialog(this, "You Win! All non-bomb cells revealed!\nClick 'Play Again' to start a new game.");
             }
@@ -218,11 +304,17 @@ public class Grid extends JFrame {
         if (gameOver || revealed[row][col]) return;
         
         flagged[row][col] = !flagged[row][col];
+        flagCount += flagged[row][col] ? 1 : -1;
+        for (GameListener listener : listeners) {
+            listener.cellFlagged(row, col, flagged[row][col]);
+        }
         
         if (flagged[row][col]) {
             // Flag the cell
             ImageIcon flagIcon = iconManager.getFlag();
             if (flagIcon != null) {
+                buttons[row][col].setText(null);
+                buttons[row][col].setBackground(null);
                 buttons[row][col].setIcon(flagIcon);
             } else {
                 buttons[row][col].setText("🚩");
@@ -239,32 +331,12 @@ public class Grid extends JFrame {
             }
         }
         
-        // Count and display remaining flags
-        int flagsPlaced = countFlags();
-        statusLabel.setText("Bombs to find: " + (NUM_BOMBS - flagsPlaced));
-    }
-    
-    private int countFlags() {
-        int count = 0;
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                if (flagged[i][j]) count++;
-            }
-        }
-        return count;
+        // Display remaining flags
+        statusLabel.setText("Bombs to find: " + (NUM_BOMBS - flagCount));
     }
 
     private int countAdjacentBombs(int row, int col) {
-        int count = 0;
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                int r = row + i, c = col + j;
-                if (r >= 0 && r < ROWS && c >= 0 && c < COLS && bombs[r][c]) {
-                    count++;
-                }
-            }
-        }
-        return count;
+        return adjacentCounts[row][col];
     }
 
     private void revealAdjacentCells(int row, int col) {
@@ -311,12 +383,8 @@ public class Grid extends JFrame {
     }
 
     boolean checkWin() {
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                if (!bombs[i][j] && !revealed[i][j]) {
-                    return false;
-                }
-            }
+        if (getRemainingSafeCells() > 0) {
+            return false;
         }
         
         // Update the restart button on win
@@ -339,6 +407,14 @@ public class Grid extends JFrame {
         bombs = new boolean[ROWS][COLS];
         revealed = new boolean[ROWS][COLS];
         flagged = new boolean[ROWS][COLS];
+        revealedCount = 0;
+        flagCount = 0;
+        
+        // Listeners hear about the restart before the new board is dealt, which in
+        // no-guess mode already reveals the start cell
+        for (GameListener listener : listeners) {
+            listener.gameRestarted();
+        }
         
         // Reset the button appearance
         restartButton.setText("New Game");
@@ -346,13 +422,13 @@ public class Grid extends JFrame {
         restartButton.setForeground(null); // Reset to default foreground
         restartButton.setFont(new Font(restartButton.getFont().getName(), Font.PLAIN, 12));
         
+        // Reset status before dealing, so a note about how the board was dealt stays visible
+        statusLabel.setText("Find all bombs! Left click to reveal, right click to flag.");
+        
         // Recreate the grid and place new bombs
         setGrid();
         placeBombs();
         
-        // Reset status
-        statusLabel.setText("Find all bombs! Left click to reveal, right click to flag.");
-        
         // Refresh the UI
         grid.revalidate();
         grid.repaint();
@@ -388,6 +464,27 @@ public class Grid extends JFrame {
         return flagged;
     }
 
+    // Number of safe cells revealed so far
+    public int getRevealedCount() {
+        return revealedCount;
+    }
+
+    public int getFlagCount() {
+        return flagCount;
+    }
+
+    public int getRemainingSafeCells() {
+        return ROWS * COLS - NUM_BOMBS - revealedCount;
+    }
+
+    public void addGameListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeGameListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
     public boolean isGameOver() {
         return gameOver;
     }
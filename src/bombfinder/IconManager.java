@@ -4,36 +4,43 @@ import javax.swing.*;
 import java.awt.*;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 // Manages and loads icons for the game, such as bomb, flag, and mine number icons.
+// Icons are decoded in parallel in the background; a getter only waits for its own icon.
 
 public class IconManager {
-    private ImageIcon bomb;
-    private ImageIcon flag;
-    private ImageIcon incorrectFlag;
-    private ImageIcon[] mineNumber;
-    private ImageIcon unseen;
-    private ImageIcon frameIcon;
+    private CompletableFuture<ImageIcon> bomb;
+    private CompletableFuture<ImageIcon> flag;
+    private CompletableFuture<ImageIcon> incorrectFlag;
+    private List<CompletableFuture<ImageIcon>> mineNumber;
+    private CompletableFuture<ImageIcon> unseen;
     private static final int ICONSIZE = 30;
 
-    //Constructs an IconManager and initializes all game icons.
+    //Constructs an IconManager and starts loading all game icons.
 
     public IconManager() {
-        // Load individual icons using the loadIcon method
-        bomb = loadIcon("bomb");
-        flag = loadIcon("flag");
-        incorrectFlag = loadIcon("incorrect_flag");
-        unseen = loadIcon("unseen");
-        frameIcon = loadIcon("bomb");
+        // Unseen is needed first, for every cell of a new board
+        unseen = loadIconAsync("unseen");
+        bomb = loadIconAsync("bomb");
+        flag = loadIconAsync("flag");
+        incorrectFlag = loadIconAsync("incorrect_flag");
         
-        // Initialize the mineNumber array (0-8, where 0 is null for no mines)
-        mineNumber = new ImageIcon[9];
-        mineNumber[0] = null; // No icon for zero mines
+        // Initialize the mineNumber list (0-8, where 0 is null for no mines)
+        mineNumber = new ArrayList<>(9);
+        mineNumber.add(CompletableFuture.completedFuture(null)); // No icon for zero mines
         for (int i = 1; i <= 8; i++) {
-            mineNumber[i] = loadIcon("mine_" + i); // Load icons for numbers 1-8
+            mineNumber.add(loadIconAsync("mine_" + i)); // Load icons for numbers 1-8
         }
     }
     
+    private CompletableFuture<ImageIcon> loadIconAsync(String iconName) {
+        return CompletableFuture.supplyAsync(() -> loadIcon(iconName));
+    }
+    
     public ImageIcon loadIcon(String iconName) {
         try {
             // Define possible resource paths to locate the icon
@@ -92,29 +99,46 @@ public class IconManager {
     }
 
     public ImageIcon getBomb() {
-        return bomb;
+        return bomb.join();
     }
 
     public ImageIcon getFlag() {
-        return flag;
+        return flag.join();
     }
 
     public ImageIcon getIncFlag() {
-        return incorrectFlag;
+        return incorrectFlag.join();
     }
 
     public ImageIcon getMineNumber(int number) {
-        if (number >= 0 && number < mineNumber.length) {
-            return mineNumber[number];
+        if (number >= 0 && number < mineNumber.size()) {
+            return mineNumber.get(number).join();
         }
         return null;
     }
 
     public ImageIcon getUnseen() {
-        return unseen;
+        return unseen.join();
+    }
+
+    // Returns the unseen icon if it has already loaded, without waiting for it
+    public ImageIcon getUnseenIfLoaded() {
+        return unseen.getNow(null);
     }
 
+    // Runs action on the event thread once the unseen icon has loaded; it gets null if the icon is missing
+    public void whenUnseenLoaded(Consumer<ImageIcon> action) {
+        unseen.thenAccept(icon -> SwingUtilities.invokeLater(() -> action.accept(icon)));
+    }
+
+    // The frame icon is the bomb icon, so it is only decoded once
     public Image getFrameIcon() {
+        ImageIcon frameIcon = getBomb();
         return frameIcon != null ? frameIcon.getImage() : null;
     }
+
+    // Runs action on the event thread once the frame icon has loaded; it gets null if the icon is missing
+    public void whenFrameIconLoaded(Consumer<Image> action) {
+        bomb.thenAccept(icon -> SwingUtilities.invokeLater(() -> action.accept(icon != null ? icon.getImage() : null)));
+    }
 }
@@ -4,11 +4,88 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.BooleanSupplier;
 
 public class Main {
     public static void main(String[] args) {
-        Grid grid = new Grid();
+        // Used when recording the class-data sharing archive. Exits before any window is
+        // created, so the archive can be recorded without a display.
+        if (Boolean.getBoolean("bombfinder.exitAfterStartup")) {
+            warmUp();
+            System.exit(0);
+        }
         
+        // Set -Dbombfinder.unbounded=true to explore an endless board instead
+        if (Boolean.getBoolean("bombfinder.unbounded")) {
+            ChunkedGrid grid = new ChunkedGrid();
+            addSolveButton(grid, grid.getControlPanel(), () -> grid.getSolver().solveGame(),
+                "The algorithm made every move it was allowed and could keep going!",
+                "The algorithm has no more safe moves to deduce.");
+        } else {
+            Grid grid = new Grid();
+            addSolveButton(grid, grid.getControlPanel(), () -> new SolutionAlgorithm(grid).solveGame(),
+                "The algorithm successfully solved the game!",
+                "The algorithm was unable to solve the game completely.");
+        }
+    }
+    
+    // Goes through what building and painting a board loads: the icons, the Swing
+    // components of the window's content and the neighbour counts. Paints off-screen.
+    private static void warmUp() {
+        try {
+            SwingUtilities.invokeAndWait(() -> {
+                IconManager iconManager = new IconManager();
+                
+                JPanel content = new JPanel(new BorderLayout());
+                JPanel controlPanel = new JPanel();
+                controlPanel.add(new JButton("New Game"));
+                content.add(controlPanel, BorderLayout.NORTH);
+                JLabel statusLabel = new JLabel("Bombs to find: 0");
+                statusLabel.setBorder(BorderFactory.createLoweredBevelBorder());
+                content.add(statusLabel, BorderLayout.SOUTH);
+                
+                JPanel grid = StartupTiming.boardPanel(new GridLayout(15, 15));
+                for (int i = 0; i < 15 * 15; i++) {
+                    JButton cell = new JButton();
+                    cell.setIcon(i == 0 ? iconManager.getBomb() : iconManager.getUnseen());
+                    cell.setFocusPainted(false);
+                    cell.setMargin(new Insets(0, 0, 0, 0));
+                    grid.add(cell);
+                }
+                content.add(grid, BorderLayout.CENTER);
+                for (int i = 1; i <= 8; i++) {
+                    iconManager.getMineNumber(i);
+                }
+                BitBoard.neighbourCounts(new boolean[15][15]);
+                
+                content.setSize(600, 650);
+                layOut(content);
+                BufferedImage image = new BufferedImage(600, 650, BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g = image.createGraphics();
+                content.paint(g);
+                g.dispose();
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Warm-up failed", e.getCause());
+        }
+    }
+    
+    // Lays out a component tree that is not in a window, where validate() does nothing
+    private static void layOut(Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container) {
+                layOut((Container) child);
+            }
+        }
+    }
+    
+    private static void addSolveButton(Component parent, Container controlPanel, BooleanSupplier solve,
+                                       String successMessage, String failureMessage) {
         JButton solveButton = new JButton("Solve Game");
         solveButton.addActionListener(new ActionListener() {
             @Override
@@ -17,20 +94,17 @@ public class Main {
                 
                 new Thread(() -> {
                     try {
-                        SolutionAlgorithm solver = new SolutionAlgorithm(grid);
-                        boolean success = solver.solveGame();
+                        boolean success = solve.getAsBoolean();
                         
-                        String message = success ? 
-                            "The algorithm successfully solved the game!" : 
-                            "The algorithm was unable to solve the game completely.";
+                        String message = success ? successMessage : failureMessage;
                         
                         SwingUtilities.invokeLater(() -> {
-                            JOptionPane.showMessageDialog(grid, message);
+                            JOptionPane.showMessageDialog(parent, message);
                             solveButton.setEnabled(true);
                         });
                     } catch (Exception ex) {
                         SwingUtilities.invokeLater(() -> {
-                            JOptionPane.showMessageDialog(grid, 
+                            JOptionPane.showMessageDialog(parent, 
                                 "Error while solving: " + ex.getMessage(), 
                                 "Error", JOptionPane.ERROR_MESSAGE);
                             solveButton.setEnabled(true);
@@ -40,11 +114,13 @@ public class Main {
             }
         });
         
-        Container controlPanel = grid.getControlPanel();
-        if (controlPanel != null) {
-            controlPanel.add(solveButton);
-            controlPanel.revalidate();
-            controlPanel.repaint();
-        }
+        // Added on the event thread, after a fast-start window has built its board
+        SwingUtilities.invokeLater(() -> {
+            if (controlPanel != null) {
+                controlPanel.add(solveButton);
+                controlPanel.revalidate();
+                controlPanel.repaint();
+            }
+        });
     }
 }
\ No newline at end of file
@@ -1,11 +1,11 @@
 package bombfinder;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
-public class SolutionAlgorithm {
+public class SolutionAlgorithm implements GameListener {
     private final int rows;
     private final int cols;
-    private final boolean[][] bombs;
     private final boolean[][] revealed;
     private final boolean[][] flagged;
     private final Grid grid;
@@ -13,13 +13,55 @@ public class SolutionAlgorithm {
     private final Set<Point> knownSafeCells = new HashSet<>();
     private final Set<Point> knownBombCells = new HashSet<>();
     
+    // Revealed numbered cells that may still border unknown cells, kept up to date from grid events
+    private final Map<Point, Integer> frontier = new ConcurrentHashMap<>();
+    
+    // Set when the grid deals a new board; the arrays this solver holds belong to the old one
+    private volatile boolean stopped;
+    
     public SolutionAlgorithm(Grid grid) {
         this.grid = grid;
         this.rows = grid.getRows();
         this.cols = grid.getCols();
-        this.bombs = grid.getBombs();
         this.revealed = grid.getRevealed();
         this.flagged = grid.getFlagged();
+        
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (revealed[i][j]) {
+                    cellRevealed(i, j, grid.getAdjacentBombs(i, j));
+                }
+            }
+        }
+    }
+    
+    @Override
+    public void cellRevealed(int row, int col, int adjacentBombs) {
+        if (adjacentBombs > 0) {
+            frontier.put(new Point(row, col), adjacentBombs);
+        }
+    }
+    
+    @Override
+    public void gameRestarted() {
+        stopped = true;
+        frontier.clear();
+    }
+    
+    @Override
+    public void cellFlagged(int row, int col, boolean flagged) {
+        if (flagged) return;
+        
+        // Removing a flag turns the cell unknown again, so its revealed neighbours need another look
+        for (int di = -1; di <= 1; di++) {
+            for (int dj = -1; dj <= 1; dj++) {
+                int ni = row + di;
+                int nj = col + dj;
+                if (ni >= 0 && ni < rows && nj >= 0 && nj < cols && revealed[ni][nj]) {
+                    cellRevealed(ni, nj, grid.getAdjacentBombs(ni, nj));
+                }
+            }
+        }
     }
     
     public boolean makeMove() {
@@ -28,6 +70,9 @@ public class SolutionAlgorithm {
         
         findSafeAndBombCells();
         
+        // Never play moves worked out on a board that has since been replaced
+        if (stopped) return false;
+        
         if (!knownSafeCells.isEmpty()) {
             Point safeMove = knownSafeCells.iterator().next();
             grid.revealCellProgrammatically(safeMove.x, safeMove.y);
@@ -44,41 +89,49 @@ public class SolutionAlgorithm {
     }
     
     private void findSafeAndBombCells() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                if (!revealed[i][j]) continue;
-                
-                int adjacentBombs = grid.getAdjacentBombs(i, j);
-                
-                if (adjacentBombs == 0) continue;
-                
-                List<Point> unknownCells = new ArrayList<>();
-                List<Point> flaggedCells = new ArrayList<>();
-                
-                for (int di = -1; di <= 1; di++) {
-                    for (int dj = -1; dj <= 1; dj++) {
-                        if (di == 0 && dj == 0) continue;
-                        
-                        int ni = i + di;
-                        int nj = j + dj;
-                        
-                        if (ni >= 0 && ni < rows && nj >= 0 && nj < cols) {
-                            if (flagged[ni][nj]) {
-                                flaggedCells.add(new Point(ni, nj));
-                            }
-                            else if (!revealed[ni][nj]) {
-                                unknownCells.add(new Point(ni, nj));
-                            }
+        Iterator<Map.Entry<Point, Integer>> it = frontier.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Point, Integer> entry = it.next();
+            int i = entry.getKey().x;
+            int j = entry.getKey().y;
+            int adjacentBombs = entry.getValue();
+            
+            // Only the frontier cell's own neighbourhood is looked at, never the whole board
+            int unknown = 0;
+            int flaggedNeighbours = 0;
+            for (int di = -1; di <= 1; di++) {
+                for (int dj = -1; dj <= 1; dj++) {
+                    int ni = i + di;
+                    int nj = j + dj;
+                    
+                    if (ni >= 0 && ni < rows && nj >= 0 && nj < cols) {
+                        if (flagged[ni][nj]) {
+                            flaggedNeighbours++;
+                        } else if (!revealed[ni][nj]) {
+                            unknown++;
                         }
                     }
                 }
-                
-                if (flaggedCells.size() == adjacentBombs && !unknownCells.isEmpty()) {
-                    knownSafeCells.addAll(unknownCells);
-                }
-                
-                if (unknownCells.size() + flaggedCells.size() == adjacentBombs && !unknownCells.isEmpty()) {
-                    knownBombCells.addAll(unknownCells);
+            }
+            
+            if (unknown == 0) {
+                // Fully resolved, it can never yield another deduction
+                it.remove();
+                continue;
+            }
+            
+            boolean allSafe = flaggedNeighbours == adjacentBombs;
+            boolean allBombs = unknown + flaggedNeighbours == adjacentBombs;
+            if (!allSafe && !allBombs) continue;
+            
+            for (int di = -1; di <= 1; di++) {
+                for (int dj = -1; dj <= 1; dj++) {
+                    int ni = i + di;
+                    int nj = j + dj;
+                    
+                    if (ni >= 0 && ni < rows && nj >= 0 && nj < cols && !flagged[ni][nj] && !revealed[ni][nj]) {
+                        (allSafe ? knownSafeCells : knownBombCells).add(new Point(ni, nj));
+                    }
                 }
             }
         }
@@ -134,19 +187,24 @@ public class SolutionAlgorithm {
     }
     
     public boolean solveGame() {
-        while (!grid.isGameOver()) {
-            if (!makeMove()) {
-                return false;
+        grid.addGameListener(this);
+        try {
+            while (!grid.isGameOver() && !stopped) {
+                if (!makeMove()) {
+                    return false;
+                }
+                
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
             }
             
-            try {
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            return !stopped && grid.checkWin();
+        } finally {
+            grid.removeGameListener(this);
         }
-        
-        return grid.checkWin();
     }
     
     private static class Point {
@@ -0,0 +1,40 @@
+package bombfinder;
+
+import javax.swing.*;
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+
+// Prints startup milestones when run with -Dbombfinder.startupTiming=true. Times count from
+// the JVM start the runtime records; ProcessHandle's start instant is too coarse for this.
+
+final class StartupTiming {
+    private static final boolean ENABLED = Boolean.getBoolean("bombfinder.startupTiming");
+
+    private StartupTiming() {
+    }
+
+    static void report(String milestone) {
+        if (!ENABLED) return;
+        // Read the clock before the management classes are loaded, so that is not counted
+        long now = System.currentTimeMillis();
+        long started = ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.out.println(milestone + " after " + (now - started) + " ms");
+    }
+
+    // A panel for the board's cells that reports the first time it paints any
+    static JPanel boardPanel(LayoutManager layout) {
+        return new JPanel(layout) {
+            private static final long serialVersionUID = 1L;
+            private boolean painted;
+
+            @Override
+            protected void paintChildren(Graphics g) {
+                super.paintChildren(g);
+                if (!painted && getComponentCount() > 0) {
+                    painted = true;
+                    report("First paint of the board");
+                }
+            }
+        };
+    }
+}